@@ -2,8 +2,10 @@ package com.skillmatcher;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class JobSearchPlatformApplication {
     public static void main(String[] args) {
         SpringApplication.run(JobSearchPlatformApplication.class, args);
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +13,10 @@ import java.io.File;
 import com.skillmatcher.service.JobTechService;
 import com.skillmatcher.service.JobService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import java.util.List;
+import java.util.UUID;
 import com.skillmatcher.model.JobTechJob;
 import com.skillmatcher.model.Job;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -21,16 +25,27 @@ import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/jobs")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = "X-Collapsed-Duplicates")
 public class JobScraperController {
     private static final Logger logger = LoggerFactory.getLogger(JobScraperController.class);
     
+    // Only needed for JobTech calls, so keep it (and its RestTemplate) out of startup
     @Autowired
+    @Lazy
     private JobTechService jobTechService;
     
     @Autowired
     private JobService jobService;
     
+    @Value("${scraper.dir:C:\\Users\\defau\\Cursor_Projekts\\SkillMatcher\\scraper}")
+    private String scraperDir;
+
+    @Value("${scraper.script:job_scraper.py}")
+    private String scraperScript;
+
+    @Value("${scraper.python:python}")
+    private String pythonExecutable;
+    
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @GetMapping("/scrape")
@@ -39,6 +54,8 @@ public class JobScraperController {
             @RequestParam String location,
             @RequestParam(required = false) Integer maxJobs,
             @RequestParam(required = false) Integer daysBack) {
+        // Own output file per request, so concurrent scrapes never read each other's results
+        File jsonFile = new File(scraperDir, "jobs-" + UUID.randomUUID() + ".json");
         try {
             logger.info("Starting job scrape for keyword: {} and location: {} with maxJobs: {} and daysBack: {}", 
                 keyword, location, maxJobs, daysBack);
@@ -47,15 +64,16 @@ public class JobScraperController {
                 jobTechService.setMaxJobsPerSource(maxJobs);
             }
             
-            String scraperPath = "C:\\Users\\defau\\Cursor_Projekts\\SkillMatcher\\scraper\\job_scraper.py";
+            String scraperPath = new File(scraperDir, scraperScript).getPath();
             
             logger.info("Using scraper at path: {}", scraperPath);
             
             ProcessBuilder processBuilder = new ProcessBuilder(
-                "python",
+                pythonExecutable,
                 scraperPath,
                 "--keyword", keyword,
-                "--location", location
+                "--location", location,
+                "--output", jsonFile.getName()
             );
             
             if (maxJobs != null) {
@@ -68,7 +86,7 @@ public class JobScraperController {
                 processBuilder.command().add(daysBack.toString());
             }
             
-            processBuilder.directory(new File("C:\\Users\\defau\\Cursor_Projekts\\SkillMatcher\\scraper"));
+            processBuilder.directory(new File(scraperDir));
             
             Process process = processBuilder.start();
             
@@ -91,14 +109,13 @@ public class JobScraperController {
             logger.info("Scraper process exited with code: {}", exitCode);
             
             if (exitCode == 0) {
-                File jsonFile = new File("C:\\Users\\defau\\Cursor_Projekts\\SkillMatcher\\scraper\\jobs.json");
                 if (jsonFile.exists()) {
                     String jsonContent = new String(java.nio.file.Files.readAllBytes(jsonFile.toPath()));
-                    logger.info("Successfully read jobs.json");
+                    logger.info("Successfully read {}", jsonFile.getName());
                     return ResponseEntity.ok(jsonContent);
                 } else {
-                    logger.error("jobs.json file not found at: {}", jsonFile.getAbsolutePath());
-                    return ResponseEntity.badRequest().body("Failed to find jobs.json file");
+                    logger.error("Scraper output not found at: {}", jsonFile.getAbsolutePath());
+                    return ResponseEntity.badRequest().body("Failed to find scraper output file");
                 }
             }
             
@@ -111,6 +128,10 @@ public class JobScraperController {
         } catch (Exception e) {
             logger.error("Exception during job scraping", e);
             return ResponseEntity.internalServerError().body("Error: " + e.getMessage());
+        } finally {
+            if (jsonFile.exists() && !jsonFile.delete()) {
+                logger.warn("Could not delete scraper output {}", jsonFile.getAbsolutePath());
+            }
         }
     }
 
@@ -145,7 +166,9 @@ public class JobScraperController {
             logger.info("Starting job analysis and save for keyword: {} and location: {} with maxJobs: {} and daysBack: {}", 
                 keyword, location, maxJobs, daysBack);
             
-            List<Job> savedJobs = new ArrayList<>();
+            // Keyed by id: several postings can collapse into the same stored job
+            Map<Long, Job> savedJobs = new LinkedHashMap<>();
+            int collapsedDuplicates = 0;
             
             if (maxJobs != null) {
                 jobTechService.setMaxJobsPerSource(maxJobs);
@@ -180,8 +203,15 @@ public class JobScraperController {
                 if (deadline != null && !deadline.equals("N/A")) {
                     job.setDeadline(deadline);
                 }
-                savedJobs.add(jobService.saveJob(job));
-                logger.info("Saved and analyzed job: {}", job.getTitle());
+                JobService.SaveResult result = jobService.saveJob(job);
+                if (result.isCollapsed()) {
+                    collapsedDuplicates++;
+                } else {
+                    logger.info("Saved and analyzed job: {}", job.getTitle());
+                }
+                if (result.getJob() != null) {
+                    savedJobs.putIfAbsent(result.getJob().getId(), result.getJob());
+                }
             }
 
             List<JobTechJob> jobTechJobs = jobTechService.searchJobs(keyword, location);
@@ -206,11 +236,21 @@ public class JobScraperController {
                 if (deadline != null && !deadline.equals("N/A")) {
                     job.setDeadline(deadline);
                 }
-                savedJobs.add(jobService.saveJob(job));
-                logger.info("Saved and analyzed JobTech job: {}", job.getTitle());
+                JobService.SaveResult result = jobService.saveJob(job);
+                if (result.isCollapsed()) {
+                    collapsedDuplicates++;
+                } else {
+                    logger.info("Saved and analyzed JobTech job: {}", job.getTitle());
+                }
+                if (result.getJob() != null) {
+                    savedJobs.putIfAbsent(result.getJob().getId(), result.getJob());
+                }
             }
 
-            return ResponseEntity.ok(savedJobs);
+            // Collapsed postings are listed as the stored job they matched, and counted here
+            return ResponseEntity.ok()
+                .header("X-Collapsed-Duplicates", String.valueOf(collapsedDuplicates))
+                .body(new ArrayList<>(savedJobs.values()));
         } catch (Exception e) {
             logger.error("Error analyzing and saving jobs", e);
             return ResponseEntity.internalServerError().body("Error: " + e.getMessage());
@@ -0,0 +1,35 @@
+package com.skillmatcher.controller;
+
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.ResponseEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.skillmatcher.service.SkillTrendService;
+import com.skillmatcher.model.ExperienceLevel;
+import com.skillmatcher.model.SkillTrendWeek;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/skills")
+@CrossOrigin(origins = "http://localhost:3000")
+public class SkillTrendController {
+    private static final Logger logger = LoggerFactory.getLogger(SkillTrendController.class);
+
+    @Autowired
+    private SkillTrendService skillTrendService;
+
+    @GetMapping("/trends")
+    public ResponseEntity<?> getTrends(
+            @RequestParam String skill,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) ExperienceLevel experienceLevel) {
+        try {
+            List<SkillTrendWeek> trends = skillTrendService.getTrends(skill, location, experienceLevel);
+            return ResponseEntity.ok(trends);
+        } catch (Exception e) {
+            logger.error("Error fetching trends for skill: {}", skill, e);
+            return ResponseEntity.internalServerError().body("Error: " + e.getMessage());
+        }
+    }
+}
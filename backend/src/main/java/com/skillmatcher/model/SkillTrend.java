@@ -0,0 +1,48 @@
+package com.skillmatcher.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "skill_trends",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"skill", "iso_year", "iso_week", "location", "experience_level"}),
+    indexes = @Index(name = "idx_skill_trends_skill_location", columnList = "skill, location"))
+public class SkillTrend {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String skill;
+
+    @Column(name = "iso_year", nullable = false)
+    private int isoYear;
+
+    @Column(name = "iso_week", nullable = false)
+    private int isoWeek;
+
+    @Column(nullable = false)
+    private String location;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "experience_level", nullable = false, columnDefinition = "varchar(20) CHECK (experience_level IN ('NOT_SPECIFIED', 'JUNIOR', 'MID_LEVEL', 'SENIOR'))")
+    private ExperienceLevel experienceLevel;
+
+    @Column(name = "job_count", nullable = false)
+    private long jobCount;
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getSkill() { return skill; }
+    public void setSkill(String skill) { this.skill = skill; }
+    public int getIsoYear() { return isoYear; }
+    public void setIsoYear(int isoYear) { this.isoYear = isoYear; }
+    public int getIsoWeek() { return isoWeek; }
+    public void setIsoWeek(int isoWeek) { this.isoWeek = isoWeek; }
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    public ExperienceLevel getExperienceLevel() { return experienceLevel; }
+    public void setExperienceLevel(ExperienceLevel experienceLevel) { this.experienceLevel = experienceLevel; }
+    public long getJobCount() { return jobCount; }
+    public void setJobCount(long jobCount) { this.jobCount = jobCount; }
+}
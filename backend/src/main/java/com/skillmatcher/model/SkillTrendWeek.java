@@ -0,0 +1,21 @@
+package com.skillmatcher.model;
+
+public class SkillTrendWeek {
+    private final String skill;
+    private final int isoYear;
+    private final int isoWeek;
+    private final long jobCount;
+
+    public SkillTrendWeek(String skill, int isoYear, int isoWeek, long jobCount) {
+        this.skill = skill;
+        this.isoYear = isoYear;
+        this.isoWeek = isoWeek;
+        this.jobCount = jobCount;
+    }
+
+    // Getters
+    public String getSkill() { return skill; }
+    public int getIsoYear() { return isoYear; }
+    public int getIsoWeek() { return isoWeek; }
+    public long getJobCount() { return jobCount; }
+}
@@ -0,0 +1,50 @@
+package com.skillmatcher.repository;
+
+import com.skillmatcher.model.SkillTrend;
+import com.skillmatcher.model.SkillTrendWeek;
+import com.skillmatcher.model.ExperienceLevel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface SkillTrendRepository extends JpaRepository<SkillTrend, Long> {
+    @Modifying
+    @Query("UPDATE SkillTrend t SET t.jobCount = t.jobCount + :delta " +
+           "WHERE t.skill = :skill AND t.isoYear = :isoYear AND t.isoWeek = :isoWeek " +
+           "AND t.location = :location AND t.experienceLevel = :experienceLevel")
+    int incrementJobCount(@Param("skill") String skill,
+                          @Param("isoYear") int isoYear,
+                          @Param("isoWeek") int isoWeek,
+                          @Param("location") String location,
+                          @Param("experienceLevel") ExperienceLevel experienceLevel,
+                          @Param("delta") long delta);
+
+    @Query("SELECT new com.skillmatcher.model.SkillTrendWeek(t.skill, t.isoYear, t.isoWeek, SUM(t.jobCount)) " +
+           "FROM SkillTrend t WHERE t.skill = :skill " +
+           "GROUP BY t.skill, t.isoYear, t.isoWeek ORDER BY t.isoYear, t.isoWeek")
+    List<SkillTrendWeek> findWeeklyTotals(@Param("skill") String skill);
+
+    @Query("SELECT new com.skillmatcher.model.SkillTrendWeek(t.skill, t.isoYear, t.isoWeek, SUM(t.jobCount)) " +
+           "FROM SkillTrend t WHERE t.skill = :skill AND t.location = :location " +
+           "GROUP BY t.skill, t.isoYear, t.isoWeek ORDER BY t.isoYear, t.isoWeek")
+    List<SkillTrendWeek> findWeeklyTotalsByLocation(@Param("skill") String skill,
+                                                    @Param("location") String location);
+
+    @Query("SELECT new com.skillmatcher.model.SkillTrendWeek(t.skill, t.isoYear, t.isoWeek, SUM(t.jobCount)) " +
+           "FROM SkillTrend t WHERE t.skill = :skill AND t.experienceLevel = :experienceLevel " +
+           "GROUP BY t.skill, t.isoYear, t.isoWeek ORDER BY t.isoYear, t.isoWeek")
+    List<SkillTrendWeek> findWeeklyTotalsByExperienceLevel(@Param("skill") String skill,
+                                                           @Param("experienceLevel") ExperienceLevel experienceLevel);
+
+    @Query("SELECT new com.skillmatcher.model.SkillTrendWeek(t.skill, t.isoYear, t.isoWeek, SUM(t.jobCount)) " +
+           "FROM SkillTrend t WHERE t.skill = :skill AND t.location = :location " +
+           "AND t.experienceLevel = :experienceLevel " +
+           "GROUP BY t.skill, t.isoYear, t.isoWeek ORDER BY t.isoYear, t.isoWeek")
+    List<SkillTrendWeek> findWeeklyTotalsByLocationAndExperienceLevel(@Param("skill") String skill,
+                                                                      @Param("location") String location,
+                                                                      @Param("experienceLevel") ExperienceLevel experienceLevel);
+}
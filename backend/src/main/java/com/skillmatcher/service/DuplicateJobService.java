@@ -0,0 +1,310 @@
+package com.skillmatcher.service;
+
+import com.skillmatcher.model.Job;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Finds postings that are near-duplicates of recently saved ones, e.g. the same vacancy
+ * scraped from several sites. Each job gets a MinHash signature over word 3-shingles of
+ * title, company and description; an LSH index over the most recent jobs (a fixed-size
+ * ring, oldest evicted first) yields candidates that are then checked against the threshold.
+ */
+@Service
+public class DuplicateJobService {
+    private static final int NUM_HASHES = 64;
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = NUM_HASHES / BANDS;
+    private static final int SHINGLE_SIZE = 3;
+
+    private static final long[] HASH_MULTIPLIERS = new long[NUM_HASHES];
+    private static final long[] HASH_OFFSETS = new long[NUM_HASHES];
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_CAFEL);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            HASH_MULTIPLIERS[i] = random.nextLong() | 1L;
+            HASH_OFFSETS[i] = random.nextLong();
+        }
+    }
+
+    private static final long PENDING = -1;
+
+    private final double similarityThreshold;
+    private final int capacity;
+
+    // Ring of indexed jobs: per slot the job id (PENDING until saved), source, URL hash and
+    // signature; tickets tell a reservation apart from a later reuse of its slot, 0 = empty
+    private final long[] jobIds;
+    private final String[] sources;
+    private final long[] urlHashes;
+    private final long[] tickets;
+    private final int[] signatures;
+    private int nextSlot;
+    private long nextTicket = 1;
+
+    // LSH buckets as intrusive chains over (slot * BANDS + band) entries; the chain heads
+    // live in an open-addressing table so the index never boxes or grows past its capacity
+    private final long[] tableKeys;
+    private final int[] tableHeads;
+    private final int tableMask;
+    private final long[] bucketKeys;
+    private final int[] nextInBucket;
+
+    public DuplicateJobService(
+            @Value("${duplicates.similarity-threshold:0.8}") double similarityThreshold,
+            @Value("${duplicates.max-indexed-jobs:20000}") int capacity) {
+        this.similarityThreshold = similarityThreshold;
+        this.capacity = Math.max(1, capacity);
+        this.jobIds = new long[this.capacity];
+        this.sources = new String[this.capacity];
+        this.urlHashes = new long[this.capacity];
+        this.tickets = new long[this.capacity];
+        this.signatures = new int[this.capacity * NUM_HASHES];
+        this.bucketKeys = new long[this.capacity * BANDS];
+        this.nextInBucket = new int[this.capacity * BANDS];
+        int tableSize = Integer.highestOneBit(this.capacity * BANDS * 2 - 1) << 1;
+        this.tableKeys = new long[tableSize];
+        this.tableHeads = new int[tableSize];
+        this.tableMask = tableSize - 1;
+        Arrays.fill(this.tableHeads, -1);
+    }
+
+    /**
+     * Checks a job against the index and, unless it is a duplicate, reserves its place in the
+     * same step so a concurrent copy of the same vacancy sees it. The caller must
+     * {@link #confirm} the reservation once the job is saved, or {@link #release} it on failure.
+     */
+    public Reservation reserve(Job job) {
+        int[] signature = signature(job);
+        if (signature == null) return Reservation.NONE;
+        String source = job.getSource();
+        long urlHash = urlHash(job.getUrl());
+
+        synchronized (this) {
+            int duplicateSlot = findDuplicate(signature, source, urlHash);
+            if (duplicateSlot >= 0) {
+                long duplicateOf = jobIds[duplicateSlot];
+                return new Reservation(true, duplicateOf == PENDING ? null : duplicateOf, -1, 0);
+            }
+            int slot = insert(signature, source, urlHash);
+            return new Reservation(false, null, slot, tickets[slot]);
+        }
+    }
+
+    public synchronized void confirm(Reservation reservation, long jobId) {
+        if (holds(reservation)) {
+            jobIds[reservation.slot] = jobId;
+        }
+    }
+
+    public synchronized void release(Reservation reservation) {
+        if (holds(reservation)) {
+            unlink(reservation.slot);
+            tickets[reservation.slot] = 0;
+            sources[reservation.slot] = null;
+        }
+    }
+
+    // MinHash signature of a job, or null if it has no usable text
+    static int[] signature(Job job) {
+        String text = String.join(" ",
+            job.getTitle() != null ? job.getTitle() : "",
+            job.getCompany() != null ? job.getCompany() : "",
+            job.getDescription() != null ? job.getDescription() : "");
+
+        int[] minHashes = new int[NUM_HASHES];
+        Arrays.fill(minHashes, Integer.MAX_VALUE);
+        long[] window = new long[SHINGLE_SIZE];
+        int tokens = 0;
+        long tokenHash = 0xcbf29ce484222325L;
+        boolean inToken = false;
+
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                tokenHash = (tokenHash ^ Character.toLowerCase(c)) * 0x100000001b3L;
+                inToken = true;
+            } else if (inToken) {
+                window[tokens % SHINGLE_SIZE] = tokenHash;
+                tokens++;
+                if (tokens >= SHINGLE_SIZE) {
+                    addShingle(minHashes, window, tokens);
+                }
+                tokenHash = 0xcbf29ce484222325L;
+                inToken = false;
+            }
+        }
+        if (tokens == 0) return null;
+        if (tokens < SHINGLE_SIZE) {
+            addShingle(minHashes, window, tokens);
+        }
+        return minHashes;
+    }
+
+    /**
+     * Slot of the most similar indexed job at or above the threshold, or -1. Within one
+     * source only a repost of the same URL counts: companies reuse boilerplate across
+     * genuinely different vacancies on the same site.
+     */
+    private int findDuplicate(int[] signature, String source, long urlHash) {
+        int bestSlot = -1;
+        int bestMatches = (int) Math.ceil(similarityThreshold * NUM_HASHES) - 1;
+        for (int band = 0; band < BANDS; band++) {
+            int entry = tableHeads[findBucket(bucketKey(signature, band))];
+            while (entry >= 0) {
+                int slot = entry / BANDS;
+                boolean sameSource = source == null ? sources[slot] == null : source.equals(sources[slot]);
+                if (!sameSource || urlHashes[slot] == urlHash) {
+                    int matches = matchingHashes(signature, slot);
+                    if (matches > bestMatches) {
+                        bestMatches = matches;
+                        bestSlot = slot;
+                    }
+                }
+                entry = nextInBucket[entry];
+            }
+        }
+        return bestSlot;
+    }
+
+    private int insert(int[] signature, String source, long urlHash) {
+        int slot = nextSlot;
+        if (tickets[slot] != 0) {
+            unlink(slot);
+        }
+        nextSlot = (slot + 1) % capacity;
+
+        jobIds[slot] = PENDING;
+        sources[slot] = source;
+        urlHashes[slot] = urlHash;
+        tickets[slot] = nextTicket++;
+        System.arraycopy(signature, 0, signatures, slot * NUM_HASHES, NUM_HASHES);
+        for (int band = 0; band < BANDS; band++) {
+            int entry = slot * BANDS + band;
+            long key = bucketKey(signature, band);
+            int bucket = findBucket(key);
+            tableKeys[bucket] = key;
+            nextInBucket[entry] = tableHeads[bucket];
+            tableHeads[bucket] = entry;
+            bucketKeys[entry] = key;
+        }
+        return slot;
+    }
+
+    private boolean holds(Reservation reservation) {
+        return reservation.slot >= 0 && tickets[reservation.slot] == reservation.ticket;
+    }
+
+    private void unlink(int slot) {
+        for (int band = 0; band < BANDS; band++) {
+            int entry = slot * BANDS + band;
+            int bucket = findBucket(bucketKeys[entry]);
+            int head = tableHeads[bucket];
+            if (head == entry) {
+                if (nextInBucket[entry] < 0) {
+                    removeBucket(bucket);
+                } else {
+                    tableHeads[bucket] = nextInBucket[entry];
+                }
+            } else {
+                int previous = head;
+                while (nextInBucket[previous] != entry) {
+                    previous = nextInBucket[previous];
+                }
+                nextInBucket[previous] = nextInBucket[entry];
+            }
+        }
+    }
+
+    /** Linear probing: the bucket holding key, or the empty one where it would go. */
+    private int findBucket(long key) {
+        int bucket = (int) key & tableMask;
+        while (tableHeads[bucket] >= 0 && tableKeys[bucket] != key) {
+            bucket = (bucket + 1) & tableMask;
+        }
+        return bucket;
+    }
+
+    private void removeBucket(int bucket) {
+        tableHeads[bucket] = -1;
+        // Shift back later entries of the probe run so lookups don't stop at the hole
+        int hole = bucket;
+        for (int next = (bucket + 1) & tableMask; tableHeads[next] >= 0; next = (next + 1) & tableMask) {
+            int home = (int) tableKeys[next] & tableMask;
+            if (((next - home) & tableMask) >= ((next - hole) & tableMask)) {
+                tableKeys[hole] = tableKeys[next];
+                tableHeads[hole] = tableHeads[next];
+                tableHeads[next] = -1;
+                hole = next;
+            }
+        }
+    }
+
+    private int matchingHashes(int[] signature, int slot) {
+        int offset = slot * NUM_HASHES;
+        int matches = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (signatures[offset + i] == signature[i]) matches++;
+        }
+        return matches;
+    }
+
+    private static long urlHash(String url) {
+        if (url == null) return 0;
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < url.length(); i++) {
+            hash = (hash ^ url.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static void addShingle(int[] minHashes, long[] window, int tokens) {
+        long shingle = 0;
+        int count = Math.min(tokens, SHINGLE_SIZE);
+        for (int i = count; i > 0; i--) {
+            shingle = shingle * 31 + window[(tokens - i) % SHINGLE_SIZE];
+        }
+        shingle = mix(shingle);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            int hash = (int) ((shingle * HASH_MULTIPLIERS[i] + HASH_OFFSETS[i]) >>> 33);
+            if (hash < minHashes[i]) minHashes[i] = hash;
+        }
+    }
+
+    private static long bucketKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS_PER_BAND, end = i + ROWS_PER_BAND; i < end; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return mix(key);
+    }
+
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+
+    /** Outcome of {@link #reserve}: either a duplicate of an indexed job, or a held index slot. */
+    public static final class Reservation {
+        private static final Reservation NONE = new Reservation(false, null, -1, 0);
+
+        private final boolean duplicate;
+        private final Long duplicateOf;
+        private final int slot;
+        private final long ticket;
+
+        private Reservation(boolean duplicate, Long duplicateOf, int slot, long ticket) {
+            this.duplicate = duplicate;
+            this.duplicateOf = duplicateOf;
+            this.slot = slot;
+            this.ticket = ticket;
+        }
+
+        public boolean isDuplicate() { return duplicate; }
+        // Null when the matching job is itself still being saved
+        public Long getDuplicateOf() { return duplicateOf; }
+    }
+}
@@ -9,6 +9,8 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import com.skillmatcher.model.ExperienceLevel;
 
 @Service
@@ -33,6 +35,56 @@ public class JobAnalyzerService {
         Pattern.CASE_INSENSITIVE
     );
 
+    // Canonical skill name and the pattern matching its spellings; order matters where one is a prefix of another
+    private static final String[][] SKILL_DEFINITIONS = {
+        {"JavaScript", "javascript|js"},
+        {"TypeScript", "typescript"},
+        {"Java", "java"},
+        {"Kotlin", "kotlin"},
+        {"Scala", "scala"},
+        {"Python", "python"},
+        {"C#", "c#"},
+        {"C++", "c\\+\\+"},
+        {".NET", "\\.net|dotnet"},
+        // Bare "go" is an everyday English word, so only count it as a role or "golang"
+        {"Go", "golang|go(?=[\\s-]+(?:developer|engineer|utvecklare|programmer|programmering)\\b)"},
+        {"Rust", "rust"},
+        {"PHP", "php"},
+        {"Ruby", "ruby"},
+        {"Swift", "swift"},
+        {"PostgreSQL", "postgresql|postgres"},
+        {"MySQL", "mysql"},
+        {"MongoDB", "mongodb"},
+        {"SQL", "sql"},
+        {"Spring", "spring(?:\\s*boot)?"},
+        {"React", "react(?:\\.js)?"},
+        {"Angular", "angular"},
+        {"Vue", "vue(?:\\.js)?"},
+        {"Node.js", "node(?:\\.js)?"},
+        {"Docker", "docker"},
+        {"Kubernetes", "kubernetes|k8s"},
+        {"Terraform", "terraform"},
+        {"Kafka", "kafka"},
+        {"AWS", "aws"},
+        {"Azure", "azure"},
+        {"GCP", "gcp|google cloud"},
+        {"Linux", "linux"},
+        {"Git", "git"}
+    };
+
+    private static final Pattern SKILL_PATTERN;
+    static {
+        StringBuilder alternatives = new StringBuilder();
+        for (String[] skill : SKILL_DEFINITIONS) {
+            if (alternatives.length() > 0) alternatives.append('|');
+            alternatives.append('(').append(skill[1]).append(')');
+        }
+        SKILL_PATTERN = Pattern.compile(
+            "(?<![\\w.#+])(?:" + alternatives + ")(?![\\w#+])",
+            Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE
+        );
+    }
+
     private static final Map<String, Integer> SWEDISH_NUMBERS = new HashMap<>();
     static {
         SWEDISH_NUMBERS.put("ett", 1);
@@ -61,6 +113,41 @@ public class JobAnalyzerService {
         }
     }
 
+    private List<String> extractSkills(String title, String description) {
+        Set<String> skills = new LinkedHashSet<>();
+        for (String text : new String[] {title, description}) {
+            if (text == null) continue;
+            Matcher skillMatcher = SKILL_PATTERN.matcher(text);
+            while (skillMatcher.find()) {
+                for (int i = 1; i <= SKILL_DEFINITIONS.length; i++) {
+                    if (skillMatcher.group(i) != null) {
+                        skills.add(SKILL_DEFINITIONS[i - 1][0]);
+                        break;
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(skills);
+    }
+
+    public String canonicalSkill(String skill) {
+        if (skill == null) return null;
+        Matcher skillMatcher = SKILL_PATTERN.matcher(skill.trim());
+        if (skillMatcher.matches()) {
+            for (int i = 1; i <= SKILL_DEFINITIONS.length; i++) {
+                if (skillMatcher.group(i) != null) {
+                    return SKILL_DEFINITIONS[i - 1][0];
+                }
+            }
+        }
+        for (String[] definition : SKILL_DEFINITIONS) {
+            if (definition[0].equalsIgnoreCase(skill.trim())) {
+                return definition[0];
+            }
+        }
+        return skill.trim();
+    }
+
     public Map<String, Object> analyzeJob(String title, String description) {
         Map<String, Object> analysis = new HashMap<>();
         
@@ -127,6 +214,7 @@ public class JobAnalyzerService {
         analysis.put("minYearsRequired", minYearsRequired);
         analysis.put("hasSeniorTitle", isSeniorTitle);
         analysis.put("hasJuniorTitle", isJuniorTitle);
+        analysis.put("skills", extractSkills(title, description));
         
         return analysis;
     }
@@ -9,27 +9,56 @@ import java.util.List;
 import java.util.Map;
 import org.jsoup.Jsoup;
 import org.jsoup.parser.Parser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 @Service
 public class JobService {
+    private static final Logger logger = LoggerFactory.getLogger(JobService.class);
     private final JobRepository jobRepository;
     private final JobAnalyzerService jobAnalyzerService;
+    private final SkillTrendService skillTrendService;
+    private final DuplicateJobService duplicateJobService;
 
     @Autowired
-    public JobService(JobRepository jobRepository, JobAnalyzerService jobAnalyzerService) {
+    public JobService(JobRepository jobRepository, JobAnalyzerService jobAnalyzerService,
+                      SkillTrendService skillTrendService, DuplicateJobService duplicateJobService) {
         this.jobRepository = jobRepository;
         this.jobAnalyzerService = jobAnalyzerService;
+        this.skillTrendService = skillTrendService;
+        this.duplicateJobService = duplicateJobService;
     }
 
-    public Job saveJob(Job job) {
+    public SaveResult saveJob(Job job) {
         job.setDescription(stripHtmlTags(job.getDescription()));
-        Map<String, Object> analysis = jobAnalyzerService.analyzeJob(job.getTitle(), job.getDescription());
-        
-        job.setExperienceLevel((ExperienceLevel) analysis.get("experienceLevel"));
-        job.setYearsOfExperience((List<Integer>) analysis.get("yearsOfExperience"));
-        job.setMaxYearsRequired((Integer) analysis.get("minYearsRequired"));
-        
-        return jobRepository.save(job);
+
+        DuplicateJobService.Reservation reservation = duplicateJobService.reserve(job);
+        if (reservation.isDuplicate()) {
+            logger.info("Skipping '{}' from {}: near-duplicate of job {}",
+                job.getTitle(), job.getSource(),
+                reservation.getDuplicateOf() != null ? reservation.getDuplicateOf() : "being saved concurrently");
+            Job existing = reservation.getDuplicateOf() != null
+                ? jobRepository.findById(reservation.getDuplicateOf()).orElse(null) : null;
+            return new SaveResult(existing, true);
+        }
+
+        Job savedJob;
+        Map<String, Object> analysis;
+        try {
+            analysis = jobAnalyzerService.analyzeJob(job.getTitle(), job.getDescription());
+            
+            job.setExperienceLevel((ExperienceLevel) analysis.get("experienceLevel"));
+            job.setYearsOfExperience((List<Integer>) analysis.get("yearsOfExperience"));
+            job.setMaxYearsRequired((Integer) analysis.get("minYearsRequired"));
+            
+            savedJob = jobRepository.save(job);
+        } catch (RuntimeException e) {
+            duplicateJobService.release(reservation);
+            throw e;
+        }
+        duplicateJobService.confirm(reservation, savedJob.getId());
+        skillTrendService.recordJob(savedJob, (List<String>) analysis.get("skills"));
+        return new SaveResult(savedJob, false);
     }
 
     private String stripHtmlTags(String input) {
@@ -51,4 +80,19 @@ public class JobService {
     public List<Job> getJobsByExperienceLevel(ExperienceLevel experienceLevel) {
         return jobRepository.findByExperienceLevel(experienceLevel);
     }
-} 
\ No newline at end of file
+
+    /** Outcome of {@link #saveJob}: the newly saved job, or the stored job the posting collapsed into. */
+    public static final class SaveResult {
+        private final Job job;
+        private final boolean collapsed;
+
+        private SaveResult(Job job, boolean collapsed) {
+            this.job = job;
+            this.collapsed = collapsed;
+        }
+
+        // Null when the posting collapsed into a job that is itself still being saved
+        public Job getJob() { return job; }
+        public boolean isCollapsed() { return collapsed; }
+    }
+}
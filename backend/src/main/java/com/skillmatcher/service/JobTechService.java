@@ -3,6 +3,8 @@ package com.skillmatcher.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.skillmatcher.model.JobTechJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.ResponseEntity;
@@ -13,13 +15,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Service
+@Lazy
 public class JobTechService {
     private static final Logger logger = LoggerFactory.getLogger(JobTechService.class);
-    private static final String JOBTECH_API_URL = "https://jobsearch.api.jobtechdev.se/search";
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private int maxJobsPerSource;  
 
+    @Value("${jobtech.api-url:https://jobsearch.api.jobtechdev.se/search}")
+    private String jobTechApiUrl;
+
+    @Value("${jobtech.export-dir:C:\\Users\\defau\\Cursor_Projekts\\SkillMatcher\\scraper}")
+    private String exportDir;
+
     public JobTechService() {
         this.restTemplate = new RestTemplate();
         this.objectMapper = new ObjectMapper();
@@ -33,7 +41,7 @@ public class JobTechService {
     public List<JobTechJob> searchJobs(String keyword, String location) {
         try {
             String url = String.format("%s?q=%s&limit=%d&offset=0", 
-                JOBTECH_API_URL, 
+                jobTechApiUrl, 
                 keyword.replace(" ", "+"),
                 this.maxJobsPerSource);
 
@@ -101,8 +109,7 @@ public class JobTechService {
 
     private void saveToJsonFile(List<JobTechJob> newJobs) {
         try {
-            String scraperDir = "C:\\Users\\defau\\Cursor_Projekts\\SkillMatcher\\scraper";
-            File outputFile = new File(scraperDir, "jobs.json");
+            File outputFile = new File(exportDir, "jobs.json");
             
             List<JobTechJob> allJobs = new ArrayList<>();
             if (outputFile.exists()) {
@@ -0,0 +1,238 @@
+package com.skillmatcher.service;
+
+import com.skillmatcher.model.ExperienceLevel;
+import com.skillmatcher.model.Job;
+import com.skillmatcher.model.SkillTrend;
+import com.skillmatcher.model.SkillTrendWeek;
+import com.skillmatcher.repository.SkillTrendRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps per (skill, ISO week, location, experience level) job counts.
+ * Ingest only bumps an in-memory counter; each flush swaps in empty counters and
+ * adds the drained ones to the skill_trends rollup table, which the trends endpoint reads.
+ */
+@Service
+public class SkillTrendService {
+    private static final Logger logger = LoggerFactory.getLogger(SkillTrendService.class);
+
+    // Bucket key layout: skill id (16 bits) | location id (24) | ISO year - 2000 (8) | ISO week (6) | level (3)
+    private static final int SKILL_BITS = 16;
+    private static final int LOCATION_BITS = 24;
+    private static final int YEAR_BITS = 8;
+    private static final int WEEK_BITS = 6;
+    private static final int LEVEL_BITS = 3;
+    private static final int BASE_YEAR = 2000;
+
+    private final SkillTrendRepository skillTrendRepository;
+    private final JobAnalyzerService jobAnalyzerService;
+    private final TransactionTemplate transactionTemplate;
+
+    // Ingest threads share the read lock; flush takes the write lock only to swap in fresh counters
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private PendingCounts pendingCounts = new PendingCounts();
+
+    @Autowired
+    public SkillTrendService(SkillTrendRepository skillTrendRepository, JobAnalyzerService jobAnalyzerService,
+                             TransactionTemplate transactionTemplate) {
+        this.skillTrendRepository = skillTrendRepository;
+        this.jobAnalyzerService = jobAnalyzerService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void recordJob(Job job, List<String> skills) {
+        if (skills == null || skills.isEmpty()) return;
+
+        LocalDateTime date = job.getPostedDate() != null ? job.getPostedDate()
+            : job.getScrapedDate() != null ? job.getScrapedDate() : LocalDateTime.now();
+        int isoYear = date.get(IsoFields.WEEK_BASED_YEAR);
+        int isoWeek = date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+        if (isoYear < BASE_YEAR || isoYear >= BASE_YEAR + (1 << YEAR_BITS)) {
+            logger.warn("Skipping skill trends for job '{}' with out of range date {}", job.getTitle(), date);
+            return;
+        }
+        ExperienceLevel level = job.getExperienceLevel() != null ? job.getExperienceLevel() : ExperienceLevel.NOT_SPECIFIED;
+        String location = normalizeLocation(job.getLocation());
+
+        swapLock.readLock().lock();
+        try {
+            for (String skill : skills) {
+                if (!pendingCounts.add(skill, location, isoYear, isoWeek, level, 1)) {
+                    logger.warn("Skill trend counters are full until the next flush, dropping '{}' for job '{}'",
+                        skill, job.getTitle());
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${skills.trends.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        PendingCounts drained;
+        swapLock.writeLock().lock();
+        try {
+            drained = pendingCounts;
+            pendingCounts = new PendingCounts();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        List<SkillTrend> buckets = drained.toTrends();
+        if (buckets.isEmpty()) return;
+
+        List<SkillTrend> missing;
+        try {
+            missing = transactionTemplate.execute(status -> {
+                List<SkillTrend> notUpdated = new ArrayList<>();
+                for (SkillTrend bucket : buckets) {
+                    if (increment(bucket) == 0) notUpdated.add(bucket);
+                }
+                return notUpdated;
+            });
+        } catch (Exception e) {
+            logger.error("Error flushing skill trends, will retry on next flush: {}", e.getMessage(), e);
+            buckets.forEach(this::requeue);
+            return;
+        }
+
+        int failed = 0;
+        for (SkillTrend bucket : missing) {
+            try {
+                insertOrIncrement(bucket);
+            } catch (Exception e) {
+                logger.error("Error flushing skill trend bucket {} {}-W{}, will retry on next flush: {}",
+                    bucket.getSkill(), bucket.getIsoYear(), bucket.getIsoWeek(), e.getMessage());
+                requeue(bucket);
+                failed++;
+            }
+        }
+        logger.info("Flushed {} skill trend buckets ({} new, {} failed)", buckets.size(), missing.size(), failed);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public List<SkillTrendWeek> getTrends(String skill, String location, ExperienceLevel experienceLevel) {
+        String canonicalSkill = jobAnalyzerService.canonicalSkill(skill);
+        boolean hasLocation = location != null && !location.trim().isEmpty();
+        if (hasLocation && experienceLevel != null) {
+            return skillTrendRepository.findWeeklyTotalsByLocationAndExperienceLevel(
+                canonicalSkill, normalizeLocation(location), experienceLevel);
+        } else if (hasLocation) {
+            return skillTrendRepository.findWeeklyTotalsByLocation(canonicalSkill, normalizeLocation(location));
+        } else if (experienceLevel != null) {
+            return skillTrendRepository.findWeeklyTotalsByExperienceLevel(canonicalSkill, experienceLevel);
+        }
+        return skillTrendRepository.findWeeklyTotals(canonicalSkill);
+    }
+
+    private int increment(SkillTrend bucket) {
+        return skillTrendRepository.incrementJobCount(bucket.getSkill(), bucket.getIsoYear(), bucket.getIsoWeek(),
+            bucket.getLocation(), bucket.getExperienceLevel(), bucket.getJobCount());
+    }
+
+    // The row did not exist at update time; another instance may be inserting it right now
+    private void insertOrIncrement(SkillTrend bucket) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> skillTrendRepository.saveAndFlush(bucket));
+        } catch (DataIntegrityViolationException e) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (increment(bucket) == 0) {
+                    throw new IllegalStateException("Skill trend row vanished after a duplicate insert");
+                }
+            });
+        }
+    }
+
+    private void requeue(SkillTrend bucket) {
+        swapLock.readLock().lock();
+        try {
+            pendingCounts.add(bucket.getSkill(), bucket.getLocation(), bucket.getIsoYear(), bucket.getIsoWeek(),
+                bucket.getExperienceLevel(), bucket.getJobCount());
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static String normalizeLocation(String location) {
+        if (location == null || location.trim().isEmpty()) return "Unknown";
+        String trimmed = location.trim();
+        return trimmed.substring(0, 1).toUpperCase() + trimmed.substring(1).toLowerCase();
+    }
+
+    /**
+     * Counters for one flush interval. Skill and location strings are interned to small ids
+     * so each bucket is a single long key; the id tables only live until the next flush.
+     */
+    static class PendingCounts {
+        private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+        private final Map<String, Integer> skillIds = new ConcurrentHashMap<>();
+        private final Map<String, Integer> locationIds = new ConcurrentHashMap<>();
+        private final Map<Integer, String> skillNames = new ConcurrentHashMap<>();
+        private final Map<Integer, String> locationNames = new ConcurrentHashMap<>();
+        private final AtomicInteger nextSkillId = new AtomicInteger();
+        private final AtomicInteger nextLocationId = new AtomicInteger();
+
+        boolean add(String skill, String location, int isoYear, int isoWeek, ExperienceLevel level, long delta) {
+            int skillId = intern(skill, skillIds, skillNames, nextSkillId, SKILL_BITS);
+            int locationId = intern(location, locationIds, locationNames, nextLocationId, LOCATION_BITS);
+            if (skillId < 0 || locationId < 0) return false;
+            counts.merge(packKey(skillId, locationId, isoYear, isoWeek, level), delta, Long::sum);
+            return true;
+        }
+
+        // Only called once the instance has been swapped out, so nothing writes to it any more
+        List<SkillTrend> toTrends() {
+            List<SkillTrend> trends = new ArrayList<>(counts.size());
+            counts.forEach((key, count) -> {
+                SkillTrend trend = new SkillTrend();
+                trend.setSkill(skillNames.get((int) (key >>> (LOCATION_BITS + YEAR_BITS + WEEK_BITS + LEVEL_BITS))));
+                trend.setLocation(locationNames.get((int) ((key >>> (YEAR_BITS + WEEK_BITS + LEVEL_BITS)) & ((1L << LOCATION_BITS) - 1))));
+                trend.setIsoYear(BASE_YEAR + (int) ((key >>> (WEEK_BITS + LEVEL_BITS)) & ((1L << YEAR_BITS) - 1)));
+                trend.setIsoWeek((int) ((key >>> LEVEL_BITS) & ((1L << WEEK_BITS) - 1)));
+                trend.setExperienceLevel(ExperienceLevel.values()[(int) (key & ((1L << LEVEL_BITS) - 1))]);
+                trend.setJobCount(count);
+                trends.add(trend);
+            });
+            return trends;
+        }
+
+        static long packKey(int skillId, int locationId, int isoYear, int isoWeek, ExperienceLevel level) {
+            return ((long) skillId << (LOCATION_BITS + YEAR_BITS + WEEK_BITS + LEVEL_BITS))
+                | ((long) locationId << (YEAR_BITS + WEEK_BITS + LEVEL_BITS))
+                | ((long) (isoYear - BASE_YEAR) << (WEEK_BITS + LEVEL_BITS))
+                | ((long) isoWeek << LEVEL_BITS)
+                | level.ordinal();
+        }
+
+        // Returns -1 once the id space is used up, leaving the tables unchanged
+        private static int intern(String value, Map<String, Integer> ids, Map<Integer, String> names,
+                                  AtomicInteger nextId, int bits) {
+            Integer id = ids.computeIfAbsent(value, v -> {
+                int next = nextId.getAndIncrement();
+                if (next >= (1 << bits)) return null;
+                names.put(next, v);
+                return next;
+            });
+            return id != null ? id : -1;
+        }
+    }
+}
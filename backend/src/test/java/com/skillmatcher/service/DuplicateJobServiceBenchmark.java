@@ -0,0 +1,67 @@
+package com.skillmatcher.service;
+
+import com.skillmatcher.model.Job;
+import java.util.Random;
+
+import static com.skillmatcher.service.TestJobs.job;
+
+/**
+ * Single-threaded throughput of DuplicateJobService (signature, lookup and insert) on
+ * generated postings, plus recall on edited copies. Not run by the test suite:
+ *
+ *   mvn -B test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.skillmatcher.service.DuplicateJobServiceBenchmark
+ */
+public class DuplicateJobServiceBenchmark {
+    public static void main(String[] args) {
+        int postings = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+        int words = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+        int capacity = 20000;
+        Random random = new Random(1);
+
+        Job[] originals = new Job[postings];
+        Job[] copies = new Job[postings];
+        for (int i = 0; i < postings; i++) {
+            String[] description = TestJobs.words(random, words);
+            originals[i] = job("Backend Developer " + i, "Company " + (i % 500), String.join(" ", description),
+                "Jobbsafari", "https://jobbsafari.se/" + i);
+            // Same vacancy elsewhere: retitled, ~2% of words changed and a line appended
+            for (int k = 0; k < words / 50; k++) {
+                description[random.nextInt(words)] = "edit" + k;
+            }
+            copies[i] = job("Backend Developer " + i + " (Stockholm)", "Company " + (i % 500),
+                String.join(" ", description) + " Ansök senast idag", "Demando", "https://demando.io/" + i);
+        }
+
+        DuplicateJobService service = null;
+        for (int round = 1; round <= 3; round++) {
+            service = new DuplicateJobService(0.8, capacity);
+            int falseMatches = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < postings; i++) {
+                DuplicateJobService.Reservation reservation = service.reserve(originals[i]);
+                if (reservation.isDuplicate()) {
+                    falseMatches++;
+                } else {
+                    service.confirm(reservation, i);
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("round %d: %.0f postings/s, %d false matches among %d distinct postings%n",
+                round, postings / seconds, falseMatches, postings);
+        }
+
+        int checked = Math.min(capacity, postings);
+        int found = 0;
+        for (int i = postings - checked; i < postings; i++) {
+            DuplicateJobService.Reservation reservation = service.reserve(copies[i]);
+            if (reservation.isDuplicate() && reservation.getDuplicateOf() == i) {
+                found++;
+            } else if (!reservation.isDuplicate()) {
+                service.release(reservation);
+            }
+        }
+        System.out.printf("recall on edited cross-source copies: %.3f (%d/%d)%n",
+            (double) found / checked, found, checked);
+    }
+}
@@ -0,0 +1,119 @@
+package com.skillmatcher.service;
+
+import com.skillmatcher.model.Job;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static com.skillmatcher.service.TestJobs.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateJobServiceTest {
+    private static Long save(DuplicateJobService service, Job job, long id) {
+        DuplicateJobService.Reservation reservation = service.reserve(job);
+        if (reservation.isDuplicate()) return reservation.getDuplicateOf();
+        service.confirm(reservation, id);
+        return null;
+    }
+
+    @Test
+    void collapsesSameVacancyFromAnotherSource() {
+        DuplicateJobService service = new DuplicateJobService(0.8, 100);
+        String description = text(new Random(1), 300);
+        save(service, job("Backend Developer", "Acme AB", description, "Jobbsafari", "https://jobbsafari.se/1"), 1);
+
+        DuplicateJobService.Reservation reservation = service.reserve(job("Backend Developer - Stockholm",
+            "Acme AB", description + " Ansök senast fredag", "Demando", "https://demando.io/jobs/77"));
+
+        assertTrue(reservation.isDuplicate());
+        assertEquals(1L, reservation.getDuplicateOf());
+    }
+
+    @Test
+    void keepsDifferentVacanciesSharingBoilerplateOnTheSameSource() {
+        DuplicateJobService service = new DuplicateJobService(0.8, 100);
+        String boilerplate = text(new Random(2), 250);
+        save(service, job("Backend Developer", "Acme AB",
+            "Du kommer att bygga våra backend tjänster i Java. " + boilerplate,
+            "Jobbsafari", "https://jobbsafari.se/backend"), 1);
+
+        DuplicateJobService.Reservation reservation = service.reserve(job("Frontend Developer", "Acme AB",
+            "Du kommer att bygga vårt gränssnitt i React. " + boilerplate,
+            "Jobbsafari", "https://jobbsafari.se/frontend"));
+
+        assertFalse(reservation.isDuplicate());
+    }
+
+    @Test
+    void collapsesRepostOfSameUrlOnTheSameSource() {
+        DuplicateJobService service = new DuplicateJobService(0.8, 100);
+        String description = text(new Random(3), 300);
+        save(service, job("Backend Developer", "Acme AB", description, "Jobbsafari", "https://jobbsafari.se/1"), 1);
+
+        Long duplicateOf = save(service,
+            job("Backend Developer", "Acme AB", description, "Jobbsafari", "https://jobbsafari.se/1"), 2);
+
+        assertEquals(1L, duplicateOf);
+    }
+
+    @Test
+    void pendingReservationBlocksConcurrentCopy() {
+        DuplicateJobService service = new DuplicateJobService(0.8, 100);
+        String description = text(new Random(4), 300);
+        DuplicateJobService.Reservation first = service.reserve(
+            job("Backend Developer", "Acme AB", description, "Jobbsafari", "https://jobbsafari.se/1"));
+
+        DuplicateJobService.Reservation second = service.reserve(
+            job("Backend Developer", "Acme AB", description, "Demando", "https://demando.io/jobs/1"));
+
+        assertFalse(first.isDuplicate());
+        assertTrue(second.isDuplicate());
+        assertNull(second.getDuplicateOf());
+    }
+
+    @Test
+    void releasedReservationNoLongerMatches() {
+        DuplicateJobService service = new DuplicateJobService(0.8, 100);
+        String description = text(new Random(5), 300);
+        Job job = job("Backend Developer", "Acme AB", description, "Jobbsafari", "https://jobbsafari.se/1");
+        service.release(service.reserve(job));
+
+        assertFalse(service.reserve(job).isDuplicate());
+    }
+
+    @Test
+    void evictsOldestJobsOnceFull() {
+        int capacity = 50;
+        DuplicateJobService service = new DuplicateJobService(0.8, capacity);
+        Random random = new Random(6);
+        int total = 1000;
+        String[] descriptions = new String[total];
+        for (int i = 0; i < total; i++) {
+            descriptions[i] = text(random, 200);
+            assertNull(save(service, job("Job " + i, "Acme AB", descriptions[i], "Jobbsafari", "https://j/" + i), i));
+        }
+
+        // Many evictions went through the bucket table; survivors must still be found
+        for (int i = total - capacity; i < total; i++) {
+            DuplicateJobService.Reservation reservation = service.reserve(
+                job("Job " + i, "Acme AB", descriptions[i], "Demando", "https://d/" + i));
+            assertTrue(reservation.isDuplicate(), "job " + i + " should still be indexed");
+            assertEquals((long) i, reservation.getDuplicateOf());
+        }
+        // Checked last, since a miss reserves a slot and evicts the oldest survivor
+        for (int i = 0; i < total - capacity; i++) {
+            DuplicateJobService.Reservation reservation = service.reserve(
+                job("Job " + i, "Acme AB", descriptions[i], "Demando", "https://d/" + i));
+            assertFalse(reservation.isDuplicate(), "job " + i + " should have been evicted");
+            service.release(reservation);
+        }
+    }
+
+    @Test
+    void ignoresJobsWithoutText() {
+        DuplicateJobService service = new DuplicateJobService(0.8, 10);
+        Job empty = job(null, null, null, "Jobbsafari", "https://j/1");
+
+        assertFalse(service.reserve(empty).isDuplicate());
+        assertFalse(service.reserve(empty).isDuplicate());
+    }
+}
@@ -0,0 +1,51 @@
+package com.skillmatcher.service;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobAnalyzerServiceTest {
+    private final JobAnalyzerService analyzer = new JobAnalyzerService();
+
+    @SuppressWarnings("unchecked")
+    private List<String> skills(String title, String description) {
+        return (List<String>) analyzer.analyzeJob(title, description).get("skills");
+    }
+
+    @Test
+    void matchesSkillsWithSymbolsInTheirNames() {
+        List<String> skills = skills("Utvecklare C#/.NET", "Vi bygger i C# och .NET, frontend i Node.js.");
+
+        assertTrue(skills.contains("C#"));
+        assertTrue(skills.contains(".NET"));
+        assertTrue(skills.contains("Node.js"));
+    }
+
+    @Test
+    void doesNotMatchSkillsInsideLongerNames() {
+        List<String> skills = skills("Frontend Developer", "Erfarenhet av JavaScript och PostgreSQL.");
+
+        assertTrue(skills.contains("JavaScript"));
+        assertTrue(skills.contains("PostgreSQL"));
+        assertFalse(skills.contains("Java"));
+        assertFalse(skills.contains("SQL"));
+    }
+
+    @Test
+    void matchesGoOnlyAsARoleOrGolang() {
+        assertTrue(skills("Go-utvecklare", "Bygg tjänster med oss.").contains("Go"));
+        assertTrue(skills("Backend Developer", "We write Golang and Java.").contains("Go"));
+        assertFalse(skills("Backend Developer", "Ready to go the extra mile? Let's go live.").contains("Go"));
+    }
+
+    @Test
+    void canonicalSkillNormalizesAliasesAndCase() {
+        assertEquals("Go", analyzer.canonicalSkill("golang"));
+        assertEquals("Go", analyzer.canonicalSkill("go"));
+        assertEquals("C#", analyzer.canonicalSkill(" c# "));
+        assertEquals("PostgreSQL", analyzer.canonicalSkill("postgresql"));
+        assertEquals("Cobol", analyzer.canonicalSkill(" Cobol "));
+        assertNull(analyzer.canonicalSkill(null));
+    }
+}
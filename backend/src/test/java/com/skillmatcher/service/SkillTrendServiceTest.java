@@ -0,0 +1,100 @@
+package com.skillmatcher.service;
+
+import com.skillmatcher.model.ExperienceLevel;
+import com.skillmatcher.model.Job;
+import com.skillmatcher.model.SkillTrend;
+import com.skillmatcher.repository.SkillTrendRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SkillTrendServiceTest {
+
+    @Test
+    void packedKeysRoundTripIncludingTopWeekAndLevel() {
+        SkillTrendService.PendingCounts counts = new SkillTrendService.PendingCounts();
+        assertTrue(counts.add("Java", "Stockholm", 2020, 53, ExperienceLevel.SENIOR, 2));
+        assertTrue(counts.add("Java", "Stockholm", 2020, 53, ExperienceLevel.SENIOR, 3));
+        assertTrue(counts.add("Python", "Göteborg", 2255, 1, ExperienceLevel.NOT_SPECIFIED, 1));
+
+        List<SkillTrend> trends = counts.toTrends();
+
+        assertEquals(2, trends.size());
+        SkillTrend java = trends.stream().filter(t -> t.getSkill().equals("Java")).findFirst().orElseThrow();
+        assertEquals("Stockholm", java.getLocation());
+        assertEquals(2020, java.getIsoYear());
+        assertEquals(53, java.getIsoWeek());
+        assertEquals(ExperienceLevel.SENIOR, java.getExperienceLevel());
+        assertEquals(5L, java.getJobCount());
+
+        SkillTrend python = trends.stream().filter(t -> t.getSkill().equals("Python")).findFirst().orElseThrow();
+        assertEquals("Göteborg", python.getLocation());
+        assertEquals(2255, python.getIsoYear());
+        assertEquals(1, python.getIsoWeek());
+        assertEquals(ExperienceLevel.NOT_SPECIFIED, python.getExperienceLevel());
+        assertEquals(1L, python.getJobCount());
+    }
+
+    @Test
+    void packedFieldsNeverOverlap() {
+        long skill = SkillTrendService.PendingCounts.packKey((1 << 16) - 1, 0, 2000, 0, ExperienceLevel.NOT_SPECIFIED);
+        long location = SkillTrendService.PendingCounts.packKey(0, (1 << 24) - 1, 2000, 0, ExperienceLevel.NOT_SPECIFIED);
+        long year = SkillTrendService.PendingCounts.packKey(0, 0, 2255, 0, ExperienceLevel.NOT_SPECIFIED);
+        long week = SkillTrendService.PendingCounts.packKey(0, 0, 2000, 53, ExperienceLevel.NOT_SPECIFIED);
+        long level = SkillTrendService.PendingCounts.packKey(0, 0, 2000, 0, ExperienceLevel.SENIOR);
+
+        long[] fields = {skill, location, year, week, level};
+        for (int i = 0; i < fields.length; i++) {
+            assertTrue(fields[i] > 0);
+            for (int j = i + 1; j < fields.length; j++) {
+                assertEquals(0L, fields[i] & fields[j]);
+            }
+        }
+    }
+
+    @Test
+    void rejectsNewSkillsOnceIdTableIsFull() {
+        SkillTrendService.PendingCounts counts = new SkillTrendService.PendingCounts();
+        for (int i = 0; i < 1 << 16; i++) {
+            assertTrue(counts.add("skill-" + i, "Stockholm", 2024, 10, ExperienceLevel.JUNIOR, 1));
+        }
+
+        assertFalse(counts.add("one-too-many", "Stockholm", 2024, 10, ExperienceLevel.JUNIOR, 1));
+        // Already interned skills still count
+        assertTrue(counts.add("skill-0", "Stockholm", 2024, 10, ExperienceLevel.JUNIOR, 1));
+        assertEquals(1 << 16, counts.toTrends().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void requeuesCountsWhenFlushTransactionFails() {
+        SkillTrendRepository repository = mock(SkillTrendRepository.class);
+        when(repository.incrementJobCount(anyString(), anyInt(), anyInt(), anyString(), any(), anyLong())).thenReturn(1);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any()))
+            .thenThrow(new IllegalStateException("connection lost"))
+            .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        SkillTrendService service = new SkillTrendService(repository, new JobAnalyzerService(), transactionTemplate);
+
+        Job job = new Job();
+        job.setLocation("stockholm");
+        job.setPostedDate(LocalDateTime.of(2024, 3, 5, 0, 0));
+        job.setExperienceLevel(ExperienceLevel.MID_LEVEL);
+        service.recordJob(job, List.of("Java"));
+
+        service.flush();
+        verify(repository, never()).incrementJobCount(anyString(), anyInt(), anyInt(), anyString(), any(), anyLong());
+
+        service.flush();
+        verify(repository).incrementJobCount("Java", 2024, 10, "Stockholm", ExperienceLevel.MID_LEVEL, 1L);
+
+        service.flush();
+        verifyNoMoreInteractions(repository);
+    }
+}
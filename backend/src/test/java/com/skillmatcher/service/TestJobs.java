@@ -0,0 +1,36 @@
+package com.skillmatcher.service;
+
+import com.skillmatcher.model.Job;
+import java.util.Random;
+
+/** Generated postings shared by the duplicate detection tests and benchmark. */
+final class TestJobs {
+    static final String[] WORDS = ("vi söker en driven kollega som vill arbeta i ett agilt team med moderna "
+        + "verktyg java spring react python docker kubernetes aws azure sql kafka and you will build services "
+        + "for our customers together with product owners designers developers friendly environment").split(" ");
+
+    private TestJobs() {
+    }
+
+    static String[] words(Random random, int count) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = WORDS[random.nextInt(WORDS.length)];
+        }
+        return words;
+    }
+
+    static String text(Random random, int words) {
+        return String.join(" ", words(random, words));
+    }
+
+    static Job job(String title, String company, String description, String source, String url) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setDescription(description);
+        job.setSource(source);
+        job.setUrl(url);
+        return job;
+    }
+}
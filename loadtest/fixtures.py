@@ -0,0 +1,72 @@
+import random
+from datetime import datetime, timedelta
+
+TITLES = ['Backend Developer', 'Senior Java Developer', 'Junior Fullstack Developer',
+          'Lead Software Engineer', 'Frontend Developer', 'DevOps Engineer',
+          'Systemutvecklare', 'Graduate Software Engineer', 'Data Engineer']
+COMPANIES = ['Acme AB', 'Nordic Tech', 'Kodfabriken', 'Stockholm Systems', 'Fjord Data',
+             'Malmo Mjukvara', 'Byggbolaget IT', 'Cloudify Sverige']
+CITIES = ['Stockholm', 'Göteborg', 'Malmö', 'Uppsala', 'Linköping', 'Umeå']
+SOURCES = ['Jobbsafari', 'Demando', 'Utvecklarjobb']
+SKILLS = ['Java', 'Spring Boot', 'Python', 'React', 'TypeScript', 'Kubernetes', 'Docker',
+          'PostgreSQL', 'AWS', 'Azure', 'Kafka', 'Golang', 'C#', '.NET', 'SQL', 'Terraform']
+FILLER = ('vi söker en driven kollega som vill arbeta i ett agilt team med moderna verktyg '
+          'and you will build services for our customers together with product owners '
+          'designers and other developers in a friendly environment').split()
+EXPERIENCE = ['minst 3 års erfarenhet', 'at least 5 years of experience',
+              '2-4 years experience', 'några års erfarenhet', 'flera års arbetslivserfarenhet']
+
+
+def description(rnd, words):
+    parts = []
+    while len(parts) < words:
+        roll = rnd.random()
+        if roll < 0.08:
+            parts.append(rnd.choice(SKILLS))
+        elif roll < 0.1:
+            parts.extend(rnd.choice(EXPERIENCE).split())
+        else:
+            parts.append(rnd.choice(FILLER))
+    return '<p>' + ' '.join(parts) + '.</p>'
+
+
+def posted_date(rnd):
+    return (datetime.now() - timedelta(days=rnd.randint(0, 60))).strftime('%Y-%m-%d')
+
+
+def deadline(rnd):
+    return (datetime.now() + timedelta(days=rnd.randint(7, 45))).strftime('%Y-%m-%d')
+
+
+def scraper_jobs(count, keyword, location, words, seed):
+    rnd = random.Random(seed)
+    jobs = []
+    for i in range(count):
+        source = SOURCES[i % len(SOURCES)]
+        jobs.append({
+            'title': f"{rnd.choice(TITLES)} ({keyword})",
+            'company': rnd.choice(COMPANIES),
+            'location': rnd.choice(CITIES + [location, '']),
+            'url': f"https://{source.lower()}.example/jobs/{rnd.getrandbits(48):x}",
+            'description': description(rnd, words),
+            'source': source,
+            'upload_date': posted_date(rnd),
+            'deadline': deadline(rnd),
+        })
+    return jobs
+
+
+def jobtech_hits(count, keyword, words, seed):
+    rnd = random.Random(seed)
+    hits = []
+    for _ in range(count):
+        hits.append({
+            'id': str(rnd.randint(20000000, 29999999)),
+            'headline': f"{rnd.choice(TITLES)} ({keyword})",
+            'description': {'text': description(rnd, words)},
+            'employer': {'name': rnd.choice(COMPANIES)},
+            'workplace_address': {'city': rnd.choice(CITIES), 'municipality': None, 'region': None},
+            'publication_date': posted_date(rnd) + 'T08:00:00',
+            'application_deadline': deadline(rnd) + 'T23:59:59',
+        })
+    return {'total': {'value': count}, 'hits': hits}
@@ -0,0 +1,90 @@
+"""Compares backend cold-start time with and without the faststart build.
+
+Needs both artifacts built with the embedded database:
+
+    cd backend && mvn -B -Pfaststart,loadtest -DskipTests package
+    cd ../loadtest && python3 measure_startup.py --runs 5
+"""
+import argparse
+import glob
+import json
+import os
+import re
+import statistics
+import subprocess
+import sys
+import time
+import urllib.error
+import urllib.request
+
+HERE = os.path.dirname(os.path.abspath(__file__))
+TARGET = os.path.join(HERE, '..', 'backend', 'target')
+STARTED = re.compile(r'Started JobSearchPlatformApplication in ([\d.]+) seconds \(process running for ([\d.]+)\)')
+
+
+def variants():
+    fat_jar = [j for j in glob.glob(os.path.join(TARGET, 'skill-matcher-*.jar')) if 'faststart' not in j][0]
+    faststart = os.path.join(TARGET, 'faststart')
+    thin_jar = glob.glob(os.path.join(faststart, 'skill-matcher-*-faststart.jar'))[0]
+    archive = os.path.join(faststart, 'app.jsa')
+    return {
+        'baseline': (['-jar', fat_jar], None),
+        # Same class-path layout as the faststart variants, so the AOT gain is measured on its own
+        'thin': (['-jar', thin_jar], faststart),
+        'aot': (['-Dspring.aot.enabled=true', '-jar', thin_jar], faststart),
+        'aot+cds': (['-XX:SharedArchiveFile=' + archive, '-Xlog:cds=error',
+                     '-Dspring.aot.enabled=true', '-jar', thin_jar], faststart),
+    }
+
+
+def start_once(java_args, cwd, port, timeout):
+    command = ['java'] + java_args + ['--spring.profiles.active=loadtest', f"--server.port={port}"]
+    started = time.monotonic()
+    process = subprocess.Popen(command, cwd=cwd, stdout=subprocess.PIPE, stderr=subprocess.STDOUT, text=True)
+    try:
+        reported = None
+        for line in process.stdout:
+            match = STARTED.search(line)
+            if match:
+                reported = float(match.group(1)), float(match.group(2))
+                break
+        if reported is None:
+            sys.exit(f"Backend exited before reporting startup: {' '.join(command)}")
+        while time.monotonic() - started < timeout:
+            try:
+                with urllib.request.urlopen(f"http://127.0.0.1:{port}/api/jobs/all", timeout=5) as response:
+                    response.read()
+                break
+            except (urllib.error.URLError, OSError):
+                time.sleep(0.05)
+        first_response = time.monotonic() - started
+        return {'context_sec': reported[0], 'jvm_sec': reported[1], 'first_response_sec': first_response}
+    finally:
+        process.terminate()
+        try:
+            process.wait(timeout=30)
+        except subprocess.TimeoutExpired:
+            process.kill()
+
+
+def main():
+    parser = argparse.ArgumentParser(description='Measure backend startup time per build variant')
+    parser.add_argument('--runs', type=int, default=5, help='Starts per variant (default: 5)')
+    parser.add_argument('--port', type=int, default=18081, help='Backend port (default: 18081)')
+    parser.add_argument('--timeout', type=float, default=120, help='Seconds to wait for the first response')
+    parser.add_argument('--output', type=str, help='Write the JSON report to this file as well')
+    args = parser.parse_args()
+
+    report = {}
+    for name, (java_args, cwd) in variants().items():
+        samples = [start_once(java_args, cwd, args.port, args.timeout) for _ in range(args.runs)]
+        report[name] = {key: round(statistics.median(s[key] for s in samples), 2) for key in samples[0]}
+        print(f"{name}: {report[name]}")
+    print(json.dumps(report, indent=2))
+    if args.output:
+        with open(args.output, 'w', encoding='utf-8') as f:
+            json.dump(report, f, indent=2)
+
+
+if __name__ == '__main__':
+    main()
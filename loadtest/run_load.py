@@ -0,0 +1,246 @@
+"""End-to-end load test for the backend.
+
+Starts the packaged backend against the in-memory H2 database (Spring profile
+``loadtest``), a local JobTech stub and stub_scraper.py, then drives concurrent
+/api/jobs/analyze-and-save and /api/jobs/all traffic and reports latency,
+throughput and JVM heap/GC figures.
+
+Build the jar with the embedded database first:
+
+    cd backend && mvn -B -Ploadtest -DskipTests package
+    cd ../loadtest && python3 run_load.py --duration 60 --jobs-per-ingest 30
+"""
+import argparse
+import glob
+import itertools
+import json
+import os
+import shutil
+import subprocess
+import sys
+import threading
+import time
+import urllib.error
+import urllib.request
+from concurrent.futures import ThreadPoolExecutor
+
+from stub_jobtech import JobTechStub
+
+HERE = os.path.dirname(os.path.abspath(__file__))
+BACKEND = os.path.join(HERE, '..', 'backend')
+
+
+class Recorder:
+    def __init__(self):
+        self.lock = threading.Lock()
+        self.latencies = {}
+        self.errors = {}
+        self.job_ids = set()
+        self.jobs_collapsed = 0
+
+    def record(self, name, seconds, ok, job_ids=(), collapsed=0):
+        with self.lock:
+            if ok:
+                self.latencies.setdefault(name, []).append(seconds)
+                self.job_ids.update(job_ids)
+                self.jobs_collapsed += collapsed
+            else:
+                self.errors[name] = self.errors.get(name, 0) + 1
+
+
+def percentile(sorted_values, pct):
+    if not sorted_values:
+        return 0.0
+    index = min(len(sorted_values) - 1, max(0, int(round(pct / 100.0 * len(sorted_values))) - 1))
+    return sorted_values[index]
+
+
+def call(method, url, timeout):
+    request = urllib.request.Request(url, method=method)
+    start = time.perf_counter()
+    with urllib.request.urlopen(request, timeout=timeout) as response:
+        body = response.read()
+        headers = response.headers
+    return time.perf_counter() - start, body, headers
+
+
+def ingest_loop(args, recorder, deadline, sequence):
+    while time.monotonic() < deadline:
+        # A distinct keyword per request gives distinct, but seeded and repeatable, fixtures
+        url = (f"http://127.0.0.1:{args.port}/api/jobs/analyze-and-save"
+               f"?keyword={args.keyword}-{next(sequence)}&location={args.location}&maxJobs={args.jobs_per_ingest}")
+        try:
+            elapsed, body, headers = call('POST', url, args.timeout)
+            # Collapsed postings come back as the stored job they matched, so count distinct ids
+            recorder.record('analyze-and-save', elapsed, True, [job['id'] for job in json.loads(body)],
+                            int(headers.get('X-Collapsed-Duplicates', 0)))
+        except (urllib.error.URLError, OSError, ValueError):
+            recorder.record('analyze-and-save', 0, False)
+
+
+def read_loop(args, recorder, deadline):
+    url = f"http://127.0.0.1:{args.port}/api/jobs/all"
+    while time.monotonic() < deadline:
+        try:
+            elapsed, _, _ = call('GET', url, args.timeout)
+            recorder.record('all', elapsed, True)
+        except (urllib.error.URLError, OSError):
+            recorder.record('all', 0, False)
+        if args.read_pause > 0:
+            time.sleep(args.read_pause)
+
+
+def jstat(pid):
+    """Heap occupancy (MB) and cumulative GC counts/times from `jstat -gc`."""
+    if shutil.which('jstat') is None:
+        return None
+    try:
+        output = subprocess.run(['jstat', '-gc', str(pid)], capture_output=True, text=True, timeout=10).stdout
+        header, values = output.strip().splitlines()[:2]
+        gc = dict(zip(header.split(), (float(v) if v != '-' else 0.0 for v in values.split())))
+    except (subprocess.SubprocessError, ValueError):
+        return None
+    used_kb = gc.get('S0U', 0) + gc.get('S1U', 0) + gc.get('EU', 0) + gc.get('OU', 0)
+    return {
+        'heap_used_mb': round(used_kb / 1024, 1),
+        'old_used_mb': round(gc.get('OU', 0) / 1024, 1),
+        'young_gc_count': int(gc.get('YGC', 0)),
+        'young_gc_seconds': gc.get('YGCT', 0),
+        'full_gc_count': int(gc.get('FGC', 0)),
+        'full_gc_seconds': gc.get('FGCT', 0),
+        'gc_seconds': gc.get('GCT', 0),
+    }
+
+
+def find_jar():
+    jars = [j for j in glob.glob(os.path.join(BACKEND, 'target', '*.jar')) if not j.endswith('.original')]
+    return jars[0] if jars else None
+
+
+def start_backend(args):
+    jar = args.jar or find_jar()
+    if jar is None:
+        sys.exit('No backend jar found; run `mvn -B -Ploadtest -DskipTests package` in backend/ first')
+    export_dir = os.path.join(HERE, 'out')
+    os.makedirs(export_dir, exist_ok=True)
+    # JobTechService appends to its export on every ingest; start each run from empty
+    for stale in [os.path.join(export_dir, 'jobs.json')] + glob.glob(os.path.join(HERE, 'jobs-*.json')):
+        if os.path.exists(stale):
+            os.remove(stale)
+    command = ['java'] + args.jvm_args.split() + ['-jar', jar,
+               '--spring.profiles.active=loadtest',
+               f"--server.port={args.port}",
+               f"--jobtech.api-url=http://127.0.0.1:{args.stub_port}/search",
+               f"--scraper.dir={HERE}",
+               '--scraper.script=stub_scraper.py',
+               f"--scraper.python={sys.executable}",
+               f"--jobtech.export-dir={export_dir}"]
+    env = dict(os.environ, LOADTEST_DESCRIPTION_WORDS=str(args.description_words), LOADTEST_SEED=args.seed)
+    log = open(os.path.join(export_dir, 'backend.log'), 'w')
+    process = subprocess.Popen(command, stdout=log, stderr=subprocess.STDOUT, env=env)
+    started = time.monotonic()
+    while time.monotonic() - started < args.startup_timeout:
+        if process.poll() is not None:
+            sys.exit(f"Backend exited with code {process.returncode}; see {log.name}")
+        try:
+            call('GET', f"http://127.0.0.1:{args.port}/api/jobs/all", 5)
+            return process, time.monotonic() - started
+        except (urllib.error.URLError, OSError):
+            time.sleep(0.5)
+    process.terminate()
+    sys.exit(f"Backend did not become ready within {args.startup_timeout}s; see {log.name}")
+
+
+def run_phase(args, recorder, duration, sequence):
+    deadline = time.monotonic() + duration
+    with ThreadPoolExecutor(max_workers=args.ingest_workers + args.read_workers) as pool:
+        futures = [pool.submit(ingest_loop, args, recorder, deadline, sequence) for _ in range(args.ingest_workers)]
+        futures += [pool.submit(read_loop, args, recorder, deadline) for _ in range(args.read_workers)]
+        for future in futures:
+            future.result()
+
+
+def summarize(recorder, duration):
+    endpoints = {}
+    for name in sorted(set(recorder.latencies) | set(recorder.errors)):
+        values = sorted(recorder.latencies.get(name, []))
+        endpoints[name] = {
+            'requests': len(values),
+            'errors': recorder.errors.get(name, 0),
+            'requests_per_sec': round(len(values) / duration, 2),
+            'p50_ms': round(percentile(values, 50) * 1000, 1),
+            'p99_ms': round(percentile(values, 99) * 1000, 1),
+            'max_ms': round((values[-1] if values else 0) * 1000, 1),
+        }
+    return {
+        'duration_sec': duration,
+        'jobs_saved': len(recorder.job_ids),
+        'jobs_per_sec': round(len(recorder.job_ids) / duration, 2),
+        'jobs_collapsed': recorder.jobs_collapsed,
+        'endpoints': endpoints,
+    }
+
+
+def main():
+    parser = argparse.ArgumentParser(description='Load test /api/jobs/analyze-and-save and /api/jobs/all')
+    parser.add_argument('--jar', type=str, help='Backend jar (default: backend/target/*.jar)')
+    parser.add_argument('--jvm-args', type=str, default='-Xmx512m', help='Extra JVM arguments for the backend')
+    parser.add_argument('--port', type=int, default=18080, help='Backend port (default: 18080)')
+    parser.add_argument('--stub-port', type=int, default=8089, help='JobTech stub port (default: 8089)')
+    parser.add_argument('--duration', type=int, default=60, help='Measured phase length in seconds')
+    parser.add_argument('--warmup', type=int, default=15, help='Unmeasured warmup length in seconds')
+    parser.add_argument('--ingest-workers', type=int, default=2, help='Concurrent analyze-and-save clients')
+    parser.add_argument('--read-workers', type=int, default=4, help='Concurrent /all clients')
+    parser.add_argument('--read-pause', type=float, default=0.0, help='Seconds each reader sleeps between calls')
+    parser.add_argument('--jobs-per-ingest', type=int, default=30, help='maxJobs passed to analyze-and-save')
+    parser.add_argument('--description-words', type=int, default=300, help='Words per generated description')
+    parser.add_argument('--keyword', type=str, default='java', help='Search keyword')
+    parser.add_argument('--location', type=str, default='Stockholm', help='Search location')
+    parser.add_argument('--seed', type=str, default='0', help='Seed for the stub fixtures (default: 0)')
+    parser.add_argument('--timeout', type=float, default=120, help='Per-request timeout in seconds')
+    parser.add_argument('--startup-timeout', type=float, default=120, help='Seconds to wait for the backend')
+    parser.add_argument('--output', type=str, help='Write the JSON report to this file as well')
+    args = parser.parse_args()
+
+    stub = JobTechStub(args.stub_port, args.description_words, seed=args.seed)
+    stub.start()
+    backend, startup_seconds = start_backend(args)
+    try:
+        print(f"Backend ready after {startup_seconds:.1f}s, warming up for {args.warmup}s")
+        sequence = itertools.count()
+        run_phase(args, Recorder(), args.warmup, sequence)
+
+        before = jstat(backend.pid)
+        recorder = Recorder()
+        print(f"Measuring for {args.duration}s with {args.ingest_workers} ingest and "
+              f"{args.read_workers} read workers")
+        run_phase(args, recorder, args.duration, sequence)
+        after = jstat(backend.pid)
+
+        report = summarize(recorder, args.duration)
+        report['startup_sec'] = round(startup_seconds, 2)
+        report['config'] = {k: v for k, v in vars(args).items() if k not in ('jar', 'output')}
+        if before and after:
+            report['jvm'] = {
+                'heap_used_mb': after['heap_used_mb'],
+                'old_used_mb': after['old_used_mb'],
+                'young_gc_count': after['young_gc_count'] - before['young_gc_count'],
+                'full_gc_count': after['full_gc_count'] - before['full_gc_count'],
+                'gc_seconds': round(after['gc_seconds'] - before['gc_seconds'], 3),
+                'gc_time_pct': round(100 * (after['gc_seconds'] - before['gc_seconds']) / args.duration, 2),
+            }
+        print(json.dumps(report, indent=2))
+        if args.output:
+            with open(args.output, 'w', encoding='utf-8') as f:
+                json.dump(report, f, indent=2)
+    finally:
+        backend.terminate()
+        try:
+            backend.wait(timeout=30)
+        except subprocess.TimeoutExpired:
+            backend.kill()
+        stub.shutdown()
+
+
+if __name__ == '__main__':
+    main()
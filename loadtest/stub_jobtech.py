@@ -0,0 +1,70 @@
+import argparse
+import json
+import threading
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+from urllib.parse import urlparse, parse_qs
+
+from fixtures import jobtech_hits
+
+
+class JobTechStub(ThreadingHTTPServer):
+    daemon_threads = True
+
+    def __init__(self, port, description_words=300, max_hits=None, seed='0'):
+        super().__init__(('127.0.0.1', port), SearchHandler)
+        self.description_words = description_words
+        self.seed = seed
+        self.max_hits = max_hits
+        self.requests_served = 0
+        self.lock = threading.Lock()
+
+    def start(self):
+        thread = threading.Thread(target=self.serve_forever, daemon=True)
+        thread.start()
+        return thread
+
+
+class SearchHandler(BaseHTTPRequestHandler):
+    def do_GET(self):
+        parsed = urlparse(self.path)
+        if parsed.path != '/search':
+            self.send_error(404)
+            return
+        params = parse_qs(parsed.query)
+        limit = int(params.get('limit', ['10'])[0])
+        if self.server.max_hits is not None:
+            limit = min(limit, self.server.max_hits)
+        keyword = params.get('q', [''])[0]
+        seed = f"{self.server.seed}:{keyword}:{limit}"
+        body = json.dumps(jobtech_hits(limit, keyword, self.server.description_words, seed),
+                          ensure_ascii=False).encode('utf-8')
+        with self.server.lock:
+            self.server.requests_served += 1
+        self.send_response(200)
+        self.send_header('Content-Type', 'application/json; charset=utf-8')
+        self.send_header('Content-Length', str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+
+    def log_message(self, format, *args):
+        pass
+
+
+def main():
+    parser = argparse.ArgumentParser(description='Serve canned JobTech search responses')
+    parser.add_argument('--port', type=int, default=8089, help='Port to listen on (default: 8089)')
+    parser.add_argument('--description-words', type=int, default=300, help='Words per generated description')
+    parser.add_argument('--max-hits', type=int, help='Cap on hits per response regardless of limit')
+    parser.add_argument('--seed', type=str, default='0', help='Seed for the generated hits (default: 0)')
+    args = parser.parse_args()
+
+    server = JobTechStub(args.port, args.description_words, args.max_hits, args.seed)
+    print(f"JobTech stub listening on http://127.0.0.1:{args.port}/search")
+    try:
+        server.serve_forever()
+    except KeyboardInterrupt:
+        server.shutdown()
+
+
+if __name__ == '__main__':
+    main()
@@ -0,0 +1,31 @@
+import argparse
+import json
+import os
+import sys
+
+from fixtures import scraper_jobs
+
+
+def main():
+    parser = argparse.ArgumentParser(description='Stand-in for job_scraper.py that writes canned jobs')
+    parser.add_argument('--keyword', type=str, required=True, help='Job keyword to search for')
+    parser.add_argument('--location', type=str, required=True, help='Location to search in')
+    parser.add_argument('--output', type=str, default='jobs.json', help='Output JSON file name')
+    parser.add_argument('--max-jobs', type=int, default=3, help='Number of jobs to generate (default: 3)')
+    parser.add_argument('--days-back', type=int, help='Accepted for compatibility, ignored')
+    parser.add_argument('--source', type=str, default='all', help='Accepted for compatibility, ignored')
+    args = parser.parse_args()
+
+    words = int(os.environ.get('LOADTEST_DESCRIPTION_WORDS', '300'))
+    # Same seed and arguments always give the same jobs, so runs are comparable
+    seed = f"{os.environ.get('LOADTEST_SEED', '0')}:{args.keyword}:{args.location}:{args.max_jobs}"
+    jobs = scraper_jobs(args.max_jobs, args.keyword, args.location, words, seed)
+
+    with open(args.output, 'w', encoding='utf-8') as f:
+        json.dump(jobs, f, ensure_ascii=False)
+    print(f"Generated {len(jobs)} jobs")
+    return 0
+
+
+if __name__ == '__main__':
+    sys.exit(main())